@@ -0,0 +1,13 @@
+#!/bin/sh
+# Extracts the Boot jar into $2 and records a CDS archive (app.jsa) from a training run
+# that refreshes the context without touching the database, then exits.
+set -e
+JAR="$1"
+DEST="$2"
+
+java -Djarmode=tools -jar "$JAR" extract --destination "$DEST"
+cd "$DEST"
+java -XX:ArchiveClassesAtExit=app.jsa -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+    -Dspring.jpa.hibernate.ddl-auto=none \
+    -Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false \
+    -jar "$(basename "$JAR")"
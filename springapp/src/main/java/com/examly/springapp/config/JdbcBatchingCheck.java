@@ -0,0 +1,63 @@
+package com.examly.springapp.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+// Hibernate cannot batch inserts for entities whose ids come from IDENTITY columns,
+// so warn at startup when batching is configured but those entities would ignore it
+@Component
+public class JdbcBatchingCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcBatchingCheck.class);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkBatching() {
+        int batchSize = environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class, 0);
+        if (batchSize <= 1) {
+            return;
+        }
+
+        List<String> identityEntities = new ArrayList<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            if (usesIdentity(entity.getJavaType())) {
+                identityEntities.add(entity.getName());
+            }
+        }
+
+        if (!identityEntities.isEmpty()) {
+            log.warn("hibernate.jdbc.batch_size={} is set, but inserts for {} use GenerationType.IDENTITY "
+                    + "and will not be batched", batchSize, identityEntities);
+        }
+    }
+
+    private boolean usesIdentity(Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            GeneratedValue generatedValue = field.getAnnotation(GeneratedValue.class);
+            if (field.isAnnotationPresent(Id.class) && generatedValue != null
+                    && generatedValue.strategy() == GenerationType.IDENTITY) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
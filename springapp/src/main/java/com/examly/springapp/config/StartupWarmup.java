@@ -0,0 +1,108 @@
+package com.examly.springapp.config;
+
+import com.examly.springapp.model.Exam;
+import com.examly.springapp.model.StudentExam;
+import com.examly.springapp.repository.QuestionRepository;
+import com.examly.springapp.repository.StudentAnswerRepository;
+import com.examly.springapp.repository.StudentExamRepository;
+import com.examly.springapp.service.AnswerKeyService;
+import com.examly.springapp.service.ExamVersionService;
+import com.examly.springapp.service.StudentExamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+// Runs before the node reports ready (readiness flips to ACCEPTING_TRAFFIC only after all
+// runners finish). It fills the answer key cache for every active exam and sends one pass
+// through the read side of the StudentExamService hot paths (listing, paper, the lookups
+// submitAnswer makes, completion time and results of the latest completed attempt). That
+// loads their classes, builds Hibernate's query plans and opens pool connections. It runs in
+// a read-only transaction, writes nothing, and is far too short to trigger JIT compilation.
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    @Autowired
+    private StudentExamService studentExamService;
+
+    @Autowired
+    private AnswerKeyService answerKeyService;
+
+    @Autowired
+    private ExamVersionService examVersionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private StudentExamRepository studentExamRepository;
+
+    @Autowired
+    private StudentAnswerRepository studentAnswerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${exam.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        try {
+            int examCount = transactionTemplate.execute(status -> warmUp());
+            log.info("Warm-up loaded answer keys for {} active exams in {} ms", examCount, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up failed, continuing with a cold node", e);
+        }
+    }
+
+    private int warmUp() {
+        examVersionService.getListingVersion();
+        List<Exam> exams = studentExamService.getAvailableExams();
+        for (Exam exam : exams) {
+            answerKeyService.getAnswerKey(exam.getExamId());
+        }
+
+        // Read side of startExam: the active-attempt check and the paper
+        if (!exams.isEmpty()) {
+            Exam exam = exams.get(0);
+            studentExamRepository.findByExamAndStudentUsernameAndStatusIn(exam, "", List.of("IN_PROGRESS", "NOT_STARTED"));
+            studentExamService.getPaper(exam);
+        }
+
+        studentExamRepository.findFirstByStatusOrderByStudentExamIdDesc("COMPLETED").ifPresent(this::warmUpAttempt);
+        return exams.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void warmUpAttempt(StudentExam attempt) {
+        Long studentExamId = attempt.getStudentExamId();
+        studentExamService.getCompletionTime(studentExamId);
+        Map<String, Object> results = studentExamService.getResults(studentExamId);
+
+        // Read side of submitAnswer: the answer key lookup and the duplicate-answer check
+        List<Map<String, Object>> questions = (List<Map<String, Object>>) results.get("questions");
+        if (!questions.isEmpty()) {
+            Long questionId = (Long) questions.get(0).get("questionId");
+            answerKeyService.getAnswerKeyContaining(attempt.getExam().getExamId(), questionId);
+            studentAnswerRepository.findByStudentExamAndQuestion(attempt, questionRepository.getReferenceById(questionId));
+        }
+    }
+}
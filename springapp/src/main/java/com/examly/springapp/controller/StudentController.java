@@ -1,12 +1,18 @@
 package com.examly.springapp.controller;
 
 import com.examly.springapp.model.StudentAnswer;
+import com.examly.springapp.service.ExamVersionService;
 import com.examly.springapp.service.StudentExamService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/student/exams")
@@ -15,9 +21,19 @@ public class StudentController {
     @Autowired
     private StudentExamService studentExamService;
 
+    @Autowired
+    private ExamVersionService examVersionService;
+
+    // Dashboards poll this; a matching If-None-Match/If-Modified-Since gets a 304 after one aggregate query
     @GetMapping
-    public ResponseEntity<?> getAvailableExams() {
-        return ResponseEntity.ok(studentExamService.getAvailableExams());
+    public ResponseEntity<?> getAvailableExams(WebRequest request) {
+        ExamVersionService.ListingVersion version = examVersionService.getListingVersion();
+        if (request.checkNotModified(version.eTag(), version.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(studentExamService.getAvailableExams());
     }
 
     @PostMapping("/{examId}/start")
@@ -41,9 +57,22 @@ public class StudentController {
         return ResponseEntity.ok(response);
     }
 
+    // Results of a completed attempt never change, so they are cached for a long time
     @GetMapping("/{studentExamId}/results")
-    public ResponseEntity<?> getResults(@PathVariable Long studentExamId) {
-        Map<String, Object> response = studentExamService.getResults(studentExamId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getResults(@PathVariable Long studentExamId, WebRequest request) {
+        LocalDateTime completedAt = studentExamService.getCompletionTime(studentExamId);
+        if (completedAt == null) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(studentExamService.getResults(studentExamId));
+        }
+
+        String eTag = "\"result-" + studentExamId + "-" + completedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable())
+                .body(studentExamService.getResults(studentExamId));
     }
 }
@@ -37,6 +37,12 @@ public class Exam {
     @Column(nullable = false)
     private Boolean isActive;
 
+    // Assigned by the database on every insert and update, so all nodes share one clock
+    @JsonIgnore
+    @Column(insertable = false, updatable = false,
+            columnDefinition = "datetime(6) default current_timestamp(6) on update current_timestamp(6)")
+    private LocalDateTime updatedAt;
+
     @OneToMany(mappedBy = "exam", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
     private List<Question> questions;
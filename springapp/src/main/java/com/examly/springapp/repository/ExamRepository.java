@@ -2,10 +2,14 @@ package com.examly.springapp.repository;
 
 import com.examly.springapp.model.Exam;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface ExamRepository extends JpaRepository<Exam, Long> {
     List<Exam> findByIsActiveTrue();
     List<Exam> findByCreatedBy(String teacherUsername);
+
+    @Query("select sum(case when e.isActive = true then 1 else 0 end), max(e.updatedAt) from Exam e")
+    List<Object[]> findListingVersion();
 }
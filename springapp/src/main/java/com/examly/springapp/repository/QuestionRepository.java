@@ -3,9 +3,16 @@ package com.examly.springapp.repository;
 import com.examly.springapp.model.Exam;
 import com.examly.springapp.model.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByExam(Exam exam);
+
+    boolean existsByQuestionIdAndExamExamId(Long questionId, Long examId);
+
+    @Query("select q.questionId, q.correctOption, q.marks from Question q where q.exam.examId = :examId order by q.questionId")
+    List<Object[]> findAnswerKeyRows(@Param("examId") Long examId);
 }
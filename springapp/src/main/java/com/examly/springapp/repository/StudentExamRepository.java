@@ -5,7 +5,9 @@ import com.examly.springapp.model.StudentExam;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface StudentExamRepository extends JpaRepository<StudentExam, Long> {
     List<StudentExam> findByExamAndStudentUsernameAndStatusIn(Exam exam, String studentUsername, List<String> statuses);
+    Optional<StudentExam> findFirstByStatusOrderByStudentExamIdDesc(String status);
 }
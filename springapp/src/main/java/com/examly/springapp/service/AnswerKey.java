@@ -0,0 +1,90 @@
+package com.examly.springapp.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact, immutable answer key for one exam. Correct options are packed two bits per
+ * question (A=0, B=1, C=2, D=3) into a long[], marks are kept in a parallel byte[],
+ * and both are indexed by the question's position in ascending questionId order.
+ */
+public final class AnswerKey {
+
+    private static final int SLOTS_PER_WORD = 32;
+
+    private final long[] questionIds;
+    private final long[] correctOptions;
+    private final byte[] marks;
+
+    private AnswerKey(long[] questionIds, long[] correctOptions, byte[] marks) {
+        this.questionIds = questionIds;
+        this.correctOptions = correctOptions;
+        this.marks = marks;
+    }
+
+    /**
+     * Builds a key from {questionId, correctOption, marks} rows sorted by questionId.
+     */
+    public static AnswerKey of(List<Object[]> rows) {
+        int size = rows.size();
+        long[] questionIds = new long[size];
+        long[] correctOptions = new long[words(size)];
+        byte[] marks = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            questionIds[i] = ((Number) row[0]).longValue();
+            correctOptions[i / SLOTS_PER_WORD] |= (long) encode((String) row[1]) << shift(i);
+            marks[i] = ((Number) row[2]).byteValue();
+        }
+
+        return new AnswerKey(questionIds, correctOptions, marks);
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    /**
+     * Returns the largest questionId in this key, or -1 if the exam has no questions.
+     */
+    public long getLastQuestionId() {
+        return questionIds.length == 0 ? -1 : questionIds[questionIds.length - 1];
+    }
+
+    /**
+     * Returns the position of the question in this key, or a negative value if the
+     * question does not belong to the exam.
+     */
+    public int indexOf(long questionId) {
+        return Arrays.binarySearch(questionIds, questionId);
+    }
+
+    public boolean isCorrect(int index, String selectedOption) {
+        int correct = (int) (correctOptions[index / SLOTS_PER_WORD] >>> shift(index)) & 0b11;
+        return correct == encode(selectedOption);
+    }
+
+    public int getMarks(int index) {
+        return marks[index];
+    }
+
+    private static int encode(String option) {
+        if (option == null || option.length() != 1) {
+            throw new IllegalArgumentException("Selected option must be one of: A, B, C, or D");
+        }
+        int code = option.charAt(0) - 'A';
+        if (code < 0 || code > 3) {
+            throw new IllegalArgumentException("Selected option must be one of: A, B, C, or D");
+        }
+        return code;
+    }
+
+    private static int shift(int index) {
+        return (index % SLOTS_PER_WORD) << 1;
+    }
+
+    private static int words(int size) {
+        return (size + SLOTS_PER_WORD - 1) / SLOTS_PER_WORD;
+    }
+}
@@ -0,0 +1,40 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class AnswerKeyService {
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    private final Map<Long, AnswerKey> answerKeys = new ConcurrentHashMap<>();
+
+    public AnswerKey getAnswerKey(Long examId) {
+        return answerKeys.computeIfAbsent(examId,
+                id -> AnswerKey.of(questionRepository.findAnswerKeyRows(id)));
+    }
+
+    // Keys are cached per node, so a question added through another node is missing here
+    // until the key is rebuilt. Question ids only grow, so only an id above the key's last id
+    // can be such a question, and the key is rebuilt only if the database confirms it
+    public AnswerKey getAnswerKeyContaining(Long examId, Long questionId) {
+        AnswerKey answerKey = getAnswerKey(examId);
+        if (answerKey.indexOf(questionId) >= 0 || questionId <= answerKey.getLastQuestionId()
+                || !questionRepository.existsByQuestionIdAndExamExamId(questionId, examId)) {
+            return answerKey;
+        }
+        AnswerKey reloaded = AnswerKey.of(questionRepository.findAnswerKeyRows(examId));
+        answerKeys.put(examId, reloaded);
+        return reloaded;
+    }
+
+    public void evict(Long examId) {
+        answerKeys.remove(examId);
+    }
+}
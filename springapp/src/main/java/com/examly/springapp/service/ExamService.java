@@ -20,6 +20,9 @@ public class ExamService {
     @Autowired
     private QuestionRepository questionRepository;
 
+    @Autowired
+    private AnswerKeyService answerKeyService;
+
     public Exam createExam(Exam exam) {
         exam.setCreatedAt(LocalDateTime.now());
         exam.setIsActive(false);
@@ -30,7 +33,9 @@ public class ExamService {
         Exam exam = examRepository.findById(examId)
                 .orElseThrow(() -> new IllegalArgumentException("Exam not found"));
         question.setExam(exam);
-        return questionRepository.save(question);
+        Question saved = questionRepository.save(question);
+        answerKeyService.evict(examId);
+        return saved;
     }
 
     public List<Exam> getExamsByTeacher(String teacherUsername) {
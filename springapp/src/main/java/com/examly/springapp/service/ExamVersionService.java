@@ -0,0 +1,38 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.repository.ExamRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Derives the version of the student exam listing from the database: the number of
+ * active exams plus the latest Exam.updatedAt, which the database sets on every exam
+ * insert or update.
+ * One aggregate query replaces the full listing query for dashboard polls, and every
+ * node sees the same version.
+ */
+@Service
+public class ExamVersionService {
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    public ListingVersion getListingVersion() {
+        Object[] row = examRepository.findListingVersion().get(0);
+        long activeCount = row[0] == null ? 0 : ((Number) row[0]).longValue();
+        LocalDateTime lastUpdated = (LocalDateTime) row[1];
+        if (lastUpdated == null) {
+            return new ListingVersion("\"exams-" + activeCount + "\"", -1);
+        }
+        Instant instant = lastUpdated.atZone(ZoneId.systemDefault()).toInstant();
+        String eTag = "\"exams-" + activeCount + "-" + instant.getEpochSecond() + "." + instant.getNano() + "\"";
+        return new ListingVersion(eTag, instant.toEpochMilli());
+    }
+
+    public record ListingVersion(String eTag, long lastModified) {
+    }
+}
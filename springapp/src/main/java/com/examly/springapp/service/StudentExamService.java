@@ -29,6 +29,9 @@ public class StudentExamService {
     @Autowired
     private StudentAnswerRepository studentAnswerRepository;
 
+    @Autowired
+    private AnswerKeyService answerKeyService;
+
     public List<Exam> getAvailableExams() {
         return examRepository.findByIsActiveTrue();
     }
@@ -54,6 +57,14 @@ public class StudentExamService {
         studentExam.setStatus("IN_PROGRESS");
         studentExam = studentExamRepository.save(studentExam);
 
+        Map<String, Object> response = new HashMap<>();
+        response.put("studentExamId", studentExam.getStudentExamId());
+        response.put("questions", getPaper(exam));
+
+        return response;
+    }
+
+    public List<Map<String, Object>> getPaper(Exam exam) {
         List<Question> questions = questionRepository.findByExam(exam);
         List<Map<String, Object>> questionList = new ArrayList<>();
 
@@ -68,20 +79,23 @@ public class StudentExamService {
             qMap.put("marks", q.getMarks());
             questionList.add(qMap);
         }
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("studentExamId", studentExam.getStudentExamId());
-        response.put("questions", questionList);
-
-        return response;
+        return questionList;
     }
 
     public StudentAnswer submitAnswer(Long studentExamId, Long questionId, String selectedOption) {
         StudentExam studentExam = studentExamRepository.findById(studentExamId)
                 .orElseThrow(() -> new IllegalArgumentException("Student exam not found"));
 
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new IllegalArgumentException("Question not found"));
+        if ("COMPLETED".equals(studentExam.getStatus())) {
+            throw new IllegalArgumentException("Exam already completed");
+        }
+
+        AnswerKey answerKey = answerKeyService.getAnswerKeyContaining(studentExam.getExam().getExamId(), questionId);
+        int index = answerKey.indexOf(questionId);
+        if (index < 0) {
+            throw new IllegalArgumentException("Question not found");
+        }
+        Question question = questionRepository.getReferenceById(questionId);
 
         StudentAnswer existing = studentAnswerRepository.findByStudentExamAndQuestion(studentExam, question);
         if (existing != null) {
@@ -92,8 +106,8 @@ public class StudentExamService {
         answer.setStudentExam(studentExam);
         answer.setQuestion(question);
         answer.setSelectedOption(selectedOption);
-        answer.setIsCorrect(selectedOption.equals(question.getCorrectOption()));
-        answer.setMarksEarned(answer.getIsCorrect() ? question.getMarks() : 0);
+        answer.setIsCorrect(answerKey.isCorrect(index, selectedOption));
+        answer.setMarksEarned(answer.getIsCorrect() ? answerKey.getMarks(index) : 0);
 
         return studentAnswerRepository.save(answer);
     }
@@ -116,6 +130,12 @@ public class StudentExamService {
         return response;
     }
 
+    public LocalDateTime getCompletionTime(Long studentExamId) {
+        StudentExam studentExam = studentExamRepository.findById(studentExamId)
+                .orElseThrow(() -> new IllegalArgumentException("Student exam not found"));
+        return "COMPLETED".equals(studentExam.getStatus()) ? studentExam.getEndTime() : null;
+    }
+
     public Map<String, Object> getResults(Long studentExamId) {
         StudentExam studentExam = studentExamRepository.findById(studentExamId)
                 .orElseThrow(() -> new IllegalArgumentException("Student exam not found"));
@@ -0,0 +1,61 @@
+package com.examly.springapp.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization CPU for the startExam paper Map through the JSON and CBOR converters,
+ * with and without gzip. Payload sizes are asserted in WireFormatTest.
+ *
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *           "-Dexec.args=-cp %classpath com.examly.springapp.config.PaperSerializationBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaperSerializationBenchmark {
+
+    @Param({"50", "300"})
+    private int questionCount;
+
+    private Map<String, Object> paper;
+
+    @Setup
+    public void setUp() {
+        paper = WireFormatTest.paper(questionCount, 42L);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return WireFormatTest.write(WireFormatTest.JSON, paper, MediaType.APPLICATION_JSON);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return WireFormatTest.write(WireFormatTest.CBOR, paper, MediaType.APPLICATION_CBOR);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return WireFormatTest.gzip(json());
+    }
+
+    @Benchmark
+    public byte[] cborGzip() throws IOException {
+        return WireFormatTest.gzip(cbor());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PaperSerializationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,118 @@
+package com.examly.springapp.config;
+
+import com.examly.springapp.model.Exam;
+import com.examly.springapp.model.Question;
+import com.examly.springapp.model.StudentAnswer;
+import com.examly.springapp.model.StudentExam;
+import com.examly.springapp.repository.ExamRepository;
+import com.examly.springapp.repository.QuestionRepository;
+import com.examly.springapp.repository.StudentAnswerRepository;
+import com.examly.springapp.repository.StudentExamRepository;
+import com.examly.springapp.service.AnswerKeyService;
+import com.examly.springapp.service.ExamVersionService;
+import com.examly.springapp.service.StudentExamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+// Not transactional, so the warm-up opens its own read-only transaction as it does at startup
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StartupWarmup.class, StudentExamService.class, AnswerKeyService.class, ExamVersionService.class})
+@ExtendWith(OutputCaptureExtension.class)
+class StartupWarmupTest {
+
+    @Autowired
+    private StartupWarmup startupWarmup;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private StudentExamRepository studentExamRepository;
+
+    @MockitoSpyBean
+    private StudentAnswerRepository studentAnswerRepository;
+
+    @MockitoSpyBean
+    private StudentExamService studentExamService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void warmsReadPathsOfCompletedAttemptWithoutWriting(CapturedOutput output) {
+        Exam exam = new Exam();
+        exam.setTitle("Warm");
+        exam.setDuration(30);
+        exam.setCreatedBy("teacher");
+        exam.setCreatedAt(LocalDateTime.now());
+        exam.setIsActive(true);
+        exam = examRepository.save(exam);
+
+        Question question = new Question();
+        question.setExam(exam);
+        question.setQuestionText("Question");
+        question.setOptionA("A");
+        question.setOptionB("B");
+        question.setOptionC("C");
+        question.setOptionD("D");
+        question.setCorrectOption("A");
+        question.setMarks(2);
+        question = questionRepository.save(question);
+
+        StudentExam attempt = new StudentExam();
+        attempt.setExam(exam);
+        attempt.setStudentUsername("student");
+        attempt.setStartTime(LocalDateTime.now().minusMinutes(10));
+        attempt.setEndTime(LocalDateTime.now());
+        attempt.setStatus("COMPLETED");
+        attempt.setScore(2);
+        attempt = studentExamRepository.save(attempt);
+
+        StudentAnswer answer = new StudentAnswer();
+        answer.setStudentExam(attempt);
+        answer.setQuestion(question);
+        answer.setSelectedOption("A");
+        answer.setIsCorrect(true);
+        answer.setMarksEarned(2);
+        studentAnswerRepository.save(answer);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        startupWarmup.run(null);
+
+        assertThat(output).contains("Warm-up loaded answer keys for 1 active exams").doesNotContain("Warm-up failed");
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(studentExamRepository.findAll()).hasSize(1);
+        verify(studentExamService).getPaper(any());
+        verify(studentExamService).getCompletionTime(attempt.getStudentExamId());
+        verify(studentExamService).getResults(attempt.getStudentExamId());
+        verify(studentAnswerRepository).findByStudentExamAndQuestion(any(), any());
+    }
+}
@@ -0,0 +1,103 @@
+package com.examly.springapp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireFormatTest {
+
+    static final AbstractJackson2HttpMessageConverter JSON =
+            new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+
+    static final AbstractJackson2HttpMessageConverter CBOR =
+            new WireFormatConfig().cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json());
+
+    private static final String[] WORDS = {
+            "the", "value", "of", "function", "equation", "triangle", "matrix", "which", "following",
+            "is", "correct", "integer", "probability", "derivative", "vector", "angle", "sum", "product",
+            "energy", "velocity", "molecule", "reaction", "statement", "true", "false", "none", "above"
+    };
+
+    @Test
+    void cborPaperIsSmallerThanJsonAndGzipShrinksBoth() throws IOException {
+        Map<String, Object> paper = paper(300, 42L);
+
+        byte[] json = write(JSON, paper, MediaType.APPLICATION_JSON);
+        byte[] cbor = write(CBOR, paper, MediaType.APPLICATION_CBOR);
+
+        // Paper text dominates both encodings, so CBOR only saves the JSON punctuation and field
+        // quoting (about 1.5% here); gzip is what actually shrinks the paper
+        assertThat((double) cbor.length / json.length).isLessThan(1.0);
+        assertThat(gzip(cbor).length).isLessThan(json.length / 2);
+        assertThat((double) gzip(json).length / json.length).isLessThan(0.4);
+        assertThat((double) gzip(cbor).length / cbor.length).isLessThan(0.4);
+    }
+
+    @Test
+    void cborRoundTripsThePaper() throws IOException {
+        Map<String, Object> paper = paper(3, 7L);
+
+        byte[] cbor = write(CBOR, paper, MediaType.APPLICATION_CBOR);
+        Object read = CBOR.getObjectMapper().readValue(cbor, Map.class);
+
+        assertThat(read).isEqualTo(JSON.getObjectMapper().readValue(write(JSON, paper, MediaType.APPLICATION_JSON), Map.class));
+    }
+
+    // Same shape as StudentExamService.startExam: 500-char question text and four 200-char options
+    static Map<String, Object> paper(int questionCount, long seed) {
+        Random random = new Random(seed);
+        List<Map<String, Object>> questions = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            Map<String, Object> q = new HashMap<>();
+            q.put("questionId", 1_000L + i);
+            q.put("questionText", text(random, 500));
+            q.put("optionA", text(random, 200));
+            q.put("optionB", text(random, 200));
+            q.put("optionC", text(random, 200));
+            q.put("optionD", text(random, 200));
+            q.put("marks", 1 + random.nextInt(10));
+            questions.add(q);
+        }
+
+        Map<String, Object> paper = new HashMap<>();
+        paper.put("studentExamId", 12_345L);
+        paper.put("questions", questions);
+        return paper;
+    }
+
+    static byte[] write(AbstractJackson2HttpMessageConverter converter, Object body, MediaType mediaType) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(body, mediaType, message);
+        return message.getBodyAsBytes();
+    }
+
+    static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static String text(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.substring(0, length);
+    }
+}
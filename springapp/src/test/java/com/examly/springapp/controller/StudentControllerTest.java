@@ -0,0 +1,114 @@
+package com.examly.springapp.controller;
+
+import com.examly.springapp.config.WireFormatConfig;
+import com.examly.springapp.service.ExamVersionService;
+import com.examly.springapp.service.StudentExamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StudentController.class)
+@Import(WireFormatConfig.class)
+class StudentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StudentExamService studentExamService;
+
+    @MockitoBean
+    private ExamVersionService examVersionService;
+
+    @Test
+    void listingIsNotModifiedWhenETagMatches() throws Exception {
+        when(examVersionService.getListingVersion())
+                .thenReturn(new ExamVersionService.ListingVersion("\"exams-2-100.0\"", 100_000L));
+
+        mockMvc.perform(get("/api/student/exams").header(HttpHeaders.IF_NONE_MATCH, "\"exams-2-100.0\""))
+                .andExpect(status().isNotModified());
+        verify(studentExamService, never()).getAvailableExams();
+    }
+
+    @Test
+    void listingIsServedWhenETagIsStale() throws Exception {
+        when(examVersionService.getListingVersion())
+                .thenReturn(new ExamVersionService.ListingVersion("\"exams-3-200.0\"", 200_000L));
+        when(studentExamService.getAvailableExams()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/student/exams").header(HttpHeaders.IF_NONE_MATCH, "\"exams-2-100.0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"exams-3-200.0\""));
+    }
+
+    @Test
+    void inProgressResultsAreNeverNotModified() throws Exception {
+        when(studentExamService.getCompletionTime(7L)).thenReturn(null);
+        when(studentExamService.getResults(7L)).thenReturn(Map.of("score", 0));
+
+        mockMvc.perform(get("/api/student/exams/7/results").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+    }
+
+    @Test
+    void completedResultsAreCachedAndRevalidatedByETag() throws Exception {
+        when(studentExamService.getCompletionTime(8L)).thenReturn(LocalDateTime.of(2026, 1, 1, 10, 0));
+        when(studentExamService.getResults(any())).thenReturn(Map.of("score", 5));
+
+        String eTag = mockMvc.perform(get("/api/student/exams/8/results"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/student/exams/8/results").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/student/exams/9/results").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void browserAcceptHeadersStillNegotiateJson() throws Exception {
+        stubInProgressResults();
+
+        mockMvc.perform(get("/api/student/exams/7/results").header(HttpHeaders.ACCEPT, "application/json, */*"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/student/exams/7/results").header(HttpHeaders.ACCEPT, "application/json, text/plain, */*"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/student/exams/7/results").header(HttpHeaders.ACCEPT, "*/*"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void cborIsServedOnlyWhenRequested() throws Exception {
+        stubInProgressResults();
+
+        mockMvc.perform(get("/api/student/exams/7/results").header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    private void stubInProgressResults() {
+        when(studentExamService.getCompletionTime(7L)).thenReturn(null);
+        when(studentExamService.getResults(7L)).thenReturn(Map.of("score", 0));
+    }
+}
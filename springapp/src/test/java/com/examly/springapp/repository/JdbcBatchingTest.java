@@ -0,0 +1,117 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.model.Exam;
+import com.examly.springapp.model.Question;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Counts prepared JDBC statements under the throughput profile; a batched flush prepares one
+// statement and reuses it for every batch of rows
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("throughput")
+class JdbcBatchingTest {
+
+    private static final int QUESTION_COUNT = 120;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Exam exam;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        exam = new Exam();
+        exam.setTitle("Bulk");
+        exam.setDuration(60);
+        exam.setCreatedBy("teacher");
+        exam.setCreatedAt(LocalDateTime.now());
+        exam.setIsActive(false);
+        entityManager.persist(exam);
+        entityManager.flush();
+    }
+
+    @Test
+    void identityInsertsAreNotBatched() {
+        statistics.clear();
+
+        insertQuestions();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(QUESTION_COUNT);
+    }
+
+    @Test
+    void bulkUpdatesAreBatched() {
+        insertQuestions();
+
+        long unbatched = updateAllMarks(1, 2);
+        long batched = updateAllMarks(null, 3);
+
+        assertThat(unbatched).isEqualTo(QUESTION_COUNT);
+        assertThat(batched).isEqualTo(1);
+    }
+
+    @Test
+    void bulkDeletesAreBatched() {
+        insertQuestions();
+        List<Question> questions = loadQuestions();
+        statistics.clear();
+
+        questions.forEach(entityManager::remove);
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private long updateAllMarks(Integer sessionBatchSize, int marks) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(sessionBatchSize);
+        List<Question> questions = loadQuestions();
+        statistics.clear();
+
+        questions.forEach(q -> q.setMarks(marks));
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Question> loadQuestions() {
+        entityManager.clear();
+        return entityManager.createQuery("select q from Question q where q.exam.examId = :examId", Question.class)
+                .setParameter("examId", exam.getExamId())
+                .getResultList();
+    }
+
+    private void insertQuestions() {
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            Question q = new Question();
+            q.setExam(exam);
+            q.setQuestionText("Question " + i);
+            q.setOptionA("A");
+            q.setOptionB("B");
+            q.setOptionC("C");
+            q.setOptionD("D");
+            q.setCorrectOption("A");
+            q.setMarks(1);
+            entityManager.persist(q);
+        }
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,121 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.OnlineExamSystemApplication;
+import com.examly.springapp.model.Exam;
+import com.examly.springapp.model.Question;
+import com.examly.springapp.repository.ExamRepository;
+import com.examly.springapp.repository.QuestionRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grades one submitted answer the way submitAnswer used to (findById on the Question, then
+ * compare correctOption and read marks) against the cached AnswerKey lookup it uses now.
+ * Runs the real repositories against in-memory H2, so the entity path here pays no network
+ * round trip; against MySQL its cost only grows.
+ *
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *           "-Dexec.args=-cp %classpath com.examly.springapp.service.AnswerKeyBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnswerKeyBenchmark {
+
+    private static final String[] OPTIONS = {"A", "B", "C", "D"};
+
+    @Param({"200"})
+    private int questionCount;
+
+    private ConfigurableApplicationContext context;
+    private QuestionRepository questionRepository;
+    private AnswerKeyService answerKeyService;
+    private Long examId;
+    private long[] questionIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(OnlineExamSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--exam.warmup.enabled=false",
+                        "--logging.level.root=WARN");
+        questionRepository = context.getBean(QuestionRepository.class);
+        answerKeyService = context.getBean(AnswerKeyService.class);
+
+        Exam exam = new Exam();
+        exam.setTitle("Benchmark");
+        exam.setDuration(60);
+        exam.setCreatedBy("teacher");
+        exam.setCreatedAt(LocalDateTime.now());
+        exam.setIsActive(true);
+        exam = context.getBean(ExamRepository.class).save(exam);
+        examId = exam.getExamId();
+
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            Question q = new Question();
+            q.setExam(exam);
+            q.setQuestionText("Question text ".repeat(35));
+            q.setOptionA("Option A ".repeat(22));
+            q.setOptionB("Option B ".repeat(22));
+            q.setOptionC("Option C ".repeat(22));
+            q.setOptionD("Option D ".repeat(22));
+            q.setCorrectOption(OPTIONS[i % 4]);
+            q.setMarks(1 + i % 10);
+            questions.add(q);
+        }
+        questionIds = questionRepository.saveAll(questions).stream().mapToLong(Question::getQuestionId).toArray();
+        answerKeyService.getAnswerKey(examId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int entityPath() {
+        long questionId = nextQuestionId();
+        Question question = questionRepository.findById(questionId)
+                .orElseThrow(() -> new IllegalArgumentException("Question not found"));
+        return "B".equals(question.getCorrectOption()) ? question.getMarks() : 0;
+    }
+
+    @Benchmark
+    public int answerKeyPath() {
+        long questionId = nextQuestionId();
+        AnswerKey answerKey = answerKeyService.getAnswerKeyContaining(examId, questionId);
+        int index = answerKey.indexOf(questionId);
+        return answerKey.isCorrect(index, "B") ? answerKey.getMarks(index) : 0;
+    }
+
+    private long nextQuestionId() {
+        next = next + 1 == questionIds.length ? 0 : next + 1;
+        return questionIds[next];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AnswerKeyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
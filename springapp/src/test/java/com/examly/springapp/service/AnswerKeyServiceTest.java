@@ -0,0 +1,72 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.repository.QuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerKeyServiceTest {
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @InjectMocks
+    private AnswerKeyService answerKeyService;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{10L, "A", 1});
+        rows.add(new Object[]{20L, "B", 2});
+        when(questionRepository.findAnswerKeyRows(1L)).thenReturn(rows);
+    }
+
+    @Test
+    void missBelowLastQuestionIdIsRejectedWithoutQueries() {
+        AnswerKey answerKey = answerKeyService.getAnswerKeyContaining(1L, 15L);
+
+        assertThat(answerKey.indexOf(15L)).isNegative();
+        verify(questionRepository, never()).existsByQuestionIdAndExamExamId(anyLong(), anyLong());
+        verify(questionRepository, times(1)).findAnswerKeyRows(1L);
+    }
+
+    @Test
+    void newerQuestionOfAnotherExamDoesNotRebuildKey() {
+        when(questionRepository.existsByQuestionIdAndExamExamId(30L, 1L)).thenReturn(false);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(answerKeyService.getAnswerKeyContaining(1L, 30L).indexOf(30L)).isNegative();
+        }
+        verify(questionRepository, times(1)).findAnswerKeyRows(1L);
+    }
+
+    @Test
+    void questionAddedElsewhereRebuildsKey() {
+        answerKeyService.getAnswerKey(1L);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{10L, "A", 1});
+        rows.add(new Object[]{20L, "B", 2});
+        rows.add(new Object[]{30L, "C", 3});
+        when(questionRepository.findAnswerKeyRows(1L)).thenReturn(rows);
+        when(questionRepository.existsByQuestionIdAndExamExamId(30L, 1L)).thenReturn(true);
+
+        AnswerKey answerKey = answerKeyService.getAnswerKeyContaining(1L, 30L);
+
+        assertThat(answerKey.getMarks(answerKey.indexOf(30L))).isEqualTo(3);
+        assertThat(answerKeyService.getAnswerKey(1L)).isSameAs(answerKey);
+    }
+}
@@ -0,0 +1,80 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.Question;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnswerKeyTest {
+
+    private static final String[] OPTIONS = {"A", "B", "C", "D"};
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 31, 32, 33, 65})
+    void isCorrectAndMarksMatchEntitiesAcrossWordBoundaries(int size) {
+        List<Question> questions = questions(size, 29L);
+        AnswerKey answerKey = AnswerKey.of(rows(questions));
+
+        assertThat(answerKey.size()).isEqualTo(size);
+        for (Question q : questions) {
+            int index = answerKey.indexOf(q.getQuestionId());
+            assertThat(index).isNotNegative();
+            assertThat(answerKey.getMarks(index)).isEqualTo(q.getMarks());
+            for (String option : OPTIONS) {
+                assertThat(answerKey.isCorrect(index, option)).isEqualTo(option.equals(q.getCorrectOption()));
+            }
+        }
+    }
+
+    @Test
+    void questionFromAnotherExamIsNotInKey() {
+        List<Question> questions = questions(33, 23L);
+        AnswerKey answerKey = AnswerKey.of(rows(questions));
+
+        assertThat(answerKey.indexOf(1L)).isNegative();
+        assertThat(answerKey.indexOf(101L)).isNegative();
+        assertThat(answerKey.indexOf(9_999L)).isNegative();
+    }
+
+    @Test
+    void lastQuestionIdIsLargestIdOrMinusOne() {
+        assertThat(AnswerKey.of(List.of()).getLastQuestionId()).isEqualTo(-1);
+        assertThat(AnswerKey.of(rows(questions(33, 5L))).getLastQuestionId()).isEqualTo(100L + 32 * 3L);
+    }
+
+    @Test
+    void invalidSelectedOptionIsRejected() {
+        AnswerKey answerKey = AnswerKey.of(rows(questions(1, 31L)));
+
+        assertThatThrownBy(() -> answerKey.isCorrect(0, "E")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> answerKey.isCorrect(0, "AB")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static List<Question> questions(int size, long seed) {
+        Random random = new Random(seed);
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Question q = new Question();
+            q.setQuestionId(100L + i * 3L);
+            q.setCorrectOption(OPTIONS[random.nextInt(4)]);
+            q.setMarks(1 + random.nextInt(10));
+            questions.add(q);
+        }
+        return questions;
+    }
+
+    static List<Object[]> rows(List<Question> questions) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Question q : questions) {
+            rows.add(new Object[]{q.getQuestionId(), q.getCorrectOption(), q.getMarks()});
+        }
+        return rows;
+    }
+}
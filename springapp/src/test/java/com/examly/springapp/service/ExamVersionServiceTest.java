@@ -0,0 +1,74 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.model.Exam;
+import com.examly.springapp.repository.ExamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional: each save commits on its own, so the database assigns a fresh updatedAt
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ExamVersionService.class)
+class ExamVersionServiceTest {
+
+    @Autowired
+    private ExamVersionService examVersionService;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Test
+    void listingVersionChangesWhenAnyExamIsInsertedOrUpdated() {
+        String empty = examVersionService.getListingVersion().eTag();
+
+        Exam exam = examRepository.saveAndFlush(exam("Algebra"));
+        ExamVersionService.ListingVersion created = examVersionService.getListingVersion();
+        assertThat(created.eTag()).isNotEqualTo(empty);
+        assertThat(examVersionService.getListingVersion()).isEqualTo(created);
+
+        exam.setIsActive(true);
+        examRepository.saveAndFlush(exam);
+        ExamVersionService.ListingVersion activated = examVersionService.getListingVersion();
+        assertThat(activated.eTag()).isNotEqualTo(created.eTag());
+        assertThat(activated.lastModified()).isGreaterThanOrEqualTo(created.lastModified());
+    }
+
+    @Test
+    void swappingActiveExamsChangesVersionEvenWhenWriterClockLags() {
+        Exam x = examRepository.saveAndFlush(exam("X"));
+        Exam y = exam("Y");
+        y.setIsActive(true);
+        y = examRepository.saveAndFlush(y);
+        ExamVersionService.ListingVersion before = examVersionService.getListingVersion();
+
+        // A node whose clock lags cannot move updatedAt backwards: the column is written by the database
+        x.setIsActive(true);
+        x.setUpdatedAt(LocalDateTime.now().minusHours(1));
+        examRepository.saveAndFlush(x);
+        y.setIsActive(false);
+        y.setUpdatedAt(LocalDateTime.now().minusHours(1));
+        examRepository.saveAndFlush(y);
+
+        ExamVersionService.ListingVersion after = examVersionService.getListingVersion();
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(after.lastModified()).isGreaterThanOrEqualTo(before.lastModified());
+    }
+
+    private static Exam exam(String title) {
+        Exam exam = new Exam();
+        exam.setTitle(title);
+        exam.setDuration(30);
+        exam.setCreatedBy("teacher");
+        exam.setCreatedAt(LocalDateTime.now());
+        exam.setIsActive(false);
+        return exam;
+    }
+}